@@ -0,0 +1,93 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.mock.jdbc.MockConnection;
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Measures <code>executeQuery</code> on a statement with a prepared
+ * {@link MockResultSet}. The mock statement returns a copy of the
+ * prepared result set for every execution: a shallow copy for
+ * read-only statements and a full clone for updatable ones, which
+ * grows with the number of rows.
+ * The statements come from
+ * {@link NonRecordingHandlers#createConnection()}; each benchmark
+ * method uses its own state with only the statement it executes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CloneOnExecuteBenchmark
+{
+    private static final String SQL = "select id, name, amount from customer";
+
+    @State(Scope.Benchmark)
+    public static class Data
+    {
+        @Param({"10", "1000", "100000", "1000000"})
+        private int rows;
+
+        private MockConnection connection;
+
+        @Setup
+        public void setUp()
+        {
+            connection = NonRecordingHandlers.createConnection();
+            connection.getStatementResultSetHandler().prepareResultSet(SQL, Fixtures.createResultSet("customer", rows));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReadOnly
+    {
+        private Statement statement;
+
+        @Setup
+        public void setUp(Data data) throws SQLException
+        {
+            statement = data.connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Updatable
+    {
+        private Statement statement;
+
+        @Setup
+        public void setUp(Data data) throws SQLException
+        {
+            statement = data.connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_UPDATABLE);
+        }
+    }
+
+    @Benchmark
+    public ResultSet executeQueryReadOnly(ReadOnly state) throws SQLException
+    {
+        return state.statement.executeQuery(SQL);
+    }
+
+    @Benchmark
+    public ResultSet executeQueryUpdatable(Updatable state) throws SQLException
+    {
+        return state.statement.executeQuery(SQL);
+    }
+}
@@ -0,0 +1,62 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.jdbc.FileResultSetFactory;
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Measures {@link FileResultSetFactory#create} for a delimited
+ * text file with column names in the first line. The factory reads
+ * and parses the file on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FileResultSetFactoryBenchmark
+{
+    @Param({"10", "1000", "10000"})
+    private int rows;
+
+    private File file;
+    private FileResultSetFactory factory;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        file = Fixtures.createTextFile(rows, ";");
+        factory = new FileResultSetFactory(file);
+        factory.setDelimiter(";");
+        factory.setFirstLineContainsColumnNames(true);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        file.delete();
+    }
+
+    @Benchmark
+    public MockResultSet create()
+    {
+        return factory.create("customer");
+    }
+}
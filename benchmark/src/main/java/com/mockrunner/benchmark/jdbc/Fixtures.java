@@ -0,0 +1,161 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.sql.ResultSet;
+
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Builds the synthetic data used by the benchmarks. Every fixture
+ * has the same three columns (<i>id</i>, <i>name</i>, <i>amount</i>)
+ * and deterministic content, so that the in-memory result sets and
+ * the text and XML files describe the same table.
+ */
+final class Fixtures
+{
+    static final String[] COLUMNS = {"id", "name", "amount"};
+
+    private Fixtures()
+    {
+    }
+
+    /**
+     * Creates a scrollable <code>MockResultSet</code> with the
+     * specified number of rows.
+     * @param id the id of the result set
+     * @param rows the number of rows
+     * @return the filled result set
+     */
+    static MockResultSet createResultSet(String id, int rows)
+    {
+        Integer[] ids = new Integer[rows];
+        String[] names = new String[rows];
+        Double[] amounts = new Double[rows];
+        for(int ii = 0; ii < rows; ii++)
+        {
+            ids[ii] = ii;
+            names[ii] = name(ii);
+            amounts[ii] = amount(ii);
+        }
+        MockResultSet resultSet = new MockResultSet(id);
+        resultSet.addColumn(COLUMNS[0], ids);
+        resultSet.addColumn(COLUMNS[1], names);
+        resultSet.addColumn(COLUMNS[2], amounts);
+        resultSet.setResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        return resultSet;
+    }
+
+    /**
+     * Writes a delimited text file in the format read by
+     * {@link com.mockrunner.jdbc.FileResultSetFactory}, with
+     * the column names in the first line.
+     * @param rows the number of rows
+     * @param delimiter the column delimiter
+     * @return the temporary file, deleted on exit
+     */
+    static File createTextFile(int rows, String delimiter) throws IOException
+    {
+        File file = createTempFile(".txt");
+        Writer writer = openWriter(file);
+        try
+        {
+            writer.write(COLUMNS[0] + delimiter + COLUMNS[1] + delimiter + COLUMNS[2] + "\n");
+            for(int ii = 0; ii < rows; ii++)
+            {
+                writer.write(ii + delimiter + name(ii) + delimiter + amount(ii) + "\n");
+            }
+        }
+        finally
+        {
+            writer.close();
+        }
+        return file;
+    }
+
+    /**
+     * Writes an XML file in the Sybase dialect of
+     * {@link com.mockrunner.jdbc.XMLResultSetFactory}, i.e. one
+     * <i>row</i> element per row with one child element per column.
+     * @param rows the number of rows
+     * @return the temporary file, deleted on exit
+     */
+    static File createSybaseXMLFile(int rows) throws IOException
+    {
+        File file = createTempFile(".xml");
+        Writer writer = openWriter(file);
+        try
+        {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<resultset>\n");
+            for(int ii = 0; ii < rows; ii++)
+            {
+                writer.write("<row><id>" + ii + "</id><name>" + name(ii) + "</name><amount>" + amount(ii) + "</amount></row>\n");
+            }
+            writer.write("</resultset>\n");
+        }
+        finally
+        {
+            writer.close();
+        }
+        return file;
+    }
+
+    /**
+     * Writes an XML file in the SquirrelSQL dialect of
+     * {@link com.mockrunner.jdbc.XMLResultSetFactory}, i.e. a
+     * <i>columns</i> header followed by <i>rows</i> whose values
+     * refer to their column by number.
+     * @param rows the number of rows
+     * @return the temporary file, deleted on exit
+     */
+    static File createSquirrelXMLFile(int rows) throws IOException
+    {
+        File file = createTempFile(".xml");
+        Writer writer = openWriter(file);
+        try
+        {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<table>\n<columns>\n");
+            for(int ii = 0; ii < COLUMNS.length; ii++)
+            {
+                writer.write("<column number=\"" + ii + "\"><name>" + COLUMNS[ii] + "</name></column>\n");
+            }
+            writer.write("</columns>\n<rows>\n");
+            for(int ii = 0; ii < rows; ii++)
+            {
+                writer.write("<row><value columnNumber=\"0\">" + ii + "</value><value columnNumber=\"1\">" + name(ii) + "</value><value columnNumber=\"2\">" + amount(ii) + "</value></row>\n");
+            }
+            writer.write("</rows>\n</table>\n");
+        }
+        finally
+        {
+            writer.close();
+        }
+        return file;
+    }
+
+    private static String name(int row)
+    {
+        return "customer" + row;
+    }
+
+    private static Double amount(int row)
+    {
+        return row * 1.5;
+    }
+
+    private static File createTempFile(String suffix) throws IOException
+    {
+        File file = File.createTempFile("mockrunner-benchmark", suffix);
+        file.deleteOnExit();
+        return file;
+    }
+
+    private static Writer openWriter(File file) throws IOException
+    {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.jdbc.JDBCTestModule;
+import com.mockrunner.jdbc.StatementResultSetHandler;
+import com.mockrunner.mock.jdbc.JDBCMockObjectFactory;
+
+/**
+ * Measures {@link JDBCTestModule#verifySQLStatementExecuted} against
+ * an execution log of the specified size, with simple string
+ * comparison and with regular expressions. The verified statement
+ * is the last one in the log.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class JDBCTestModuleBenchmark
+{
+    @Param({"false", "true"})
+    private boolean useRegularExpressions;
+
+    @Param({"10", "1000", "100000"})
+    private int executed;
+
+    private JDBCMockObjectFactory mockFactory;
+    private JDBCTestModule module;
+    private String verifiedSQL;
+
+    @Setup
+    public void setUp()
+    {
+        mockFactory = new JDBCMockObjectFactory();
+        module = new JDBCTestModule(mockFactory);
+        module.setUseRegularExpressions(useRegularExpressions);
+        StatementResultSetHandler handler = mockFactory.getMockConnection().getStatementResultSetHandler();
+        for(int ii = 0; ii < executed; ii++)
+        {
+            handler.addExecutedStatement("update customer set amount = amount + 1 where id = " + ii);
+        }
+        int last = executed - 1;
+        verifiedSQL = useRegularExpressions ? "update customer .* where id = " + last : "where id = " + last;
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        mockFactory.restoreDrivers();
+    }
+
+    @Benchmark
+    public void verifySQLStatementExecuted()
+    {
+        module.verifySQLStatementExecuted(verifiedSQL);
+    }
+}
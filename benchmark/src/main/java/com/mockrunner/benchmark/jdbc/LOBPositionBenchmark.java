@@ -0,0 +1,111 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.mock.jdbc.MockBlob;
+import com.mockrunner.mock.jdbc.MockClob;
+
+/**
+ * Measures {@link MockBlob#position(byte[], long)} and
+ * {@link MockClob#position(String, long)} for a pattern of 64
+ * bytes resp. characters that occurs once, at the end of the LOB.
+ * The <i>content</i> parameter selects pseudo random lowercase
+ * text or a repetitive worst case for a naive search (the LOB
+ * consists of <i>a</i> only, the pattern is <i>a...ab</i>).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LOBPositionBenchmark
+{
+    private static final int PATTERN_LENGTH = 64;
+
+    @Param({"blob", "clob"})
+    private String lob;
+
+    @Param({"text", "worstCase"})
+    private String content;
+
+    @Param({"1048576", "104857600"})
+    private int size;
+
+    private MockBlob blob;
+    private MockClob clob;
+    private byte[] pattern;
+    private String patternString;
+    private long expectedPosition;
+
+    @Setup
+    public void setUp() throws SQLException
+    {
+        byte[] data = new byte[size];
+        pattern = new byte[PATTERN_LENGTH];
+        if("worstCase".equals(content))
+        {
+            Arrays.fill(data, (byte)'a');
+            Arrays.fill(pattern, (byte)'a');
+            pattern[PATTERN_LENGTH - 1] = 'b';
+        }
+        else
+        {
+            Random random = new Random(0);
+            for(int ii = 0; ii < size; ii++)
+            {
+                data[ii] = (byte)('a' + random.nextInt(26));
+            }
+            for(int ii = 0; ii < PATTERN_LENGTH; ii++)
+            {
+                pattern[ii] = (byte)('A' + random.nextInt(26));
+            }
+        }
+        System.arraycopy(pattern, 0, data, size - PATTERN_LENGTH, PATTERN_LENGTH);
+        expectedPosition = size - PATTERN_LENGTH + 1;
+        if("clob".equals(lob))
+        {
+            clob = new MockClob(new String(data, StandardCharsets.ISO_8859_1));
+            patternString = new String(pattern, StandardCharsets.ISO_8859_1);
+        }
+        else
+        {
+            blob = new MockBlob(data);
+        }
+    }
+
+    @Benchmark
+    public long position() throws SQLException
+    {
+        long position;
+        if("clob".equals(lob))
+        {
+            position = clob.position(patternString, 1);
+        }
+        else
+        {
+            position = blob.position(pattern, 1);
+        }
+        if(position != expectedPosition)
+        {
+            throw new IllegalStateException("Expected position " + expectedPosition + ", got " + position);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,69 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Measures a full pass over a {@link MockResultSet}, reading
+ * every column of every row either by index or by column name.
+ * Comparing both shows the cost of the column name resolution,
+ * which depends on the number of columns; the fixture has three.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MockResultSetBenchmark
+{
+    @Param({"10", "1000", "100000", "1000000"})
+    private int rows;
+
+    private MockResultSet resultSet;
+
+    @Setup
+    public void setUp()
+    {
+        resultSet = Fixtures.createResultSet("benchmark", rows);
+    }
+
+    @Benchmark
+    public void iterateByIndex(Blackhole blackhole) throws SQLException
+    {
+        resultSet.beforeFirst();
+        while(resultSet.next())
+        {
+            blackhole.consume(resultSet.getInt(1));
+            blackhole.consume(resultSet.getString(2));
+            blackhole.consume(resultSet.getDouble(3));
+        }
+    }
+
+    @Benchmark
+    public void iterateByName(Blackhole blackhole) throws SQLException
+    {
+        resultSet.beforeFirst();
+        while(resultSet.next())
+        {
+            blackhole.consume(resultSet.getInt("id"));
+            blackhole.consume(resultSet.getString("name"));
+            blackhole.consume(resultSet.getDouble("amount"));
+        }
+    }
+}
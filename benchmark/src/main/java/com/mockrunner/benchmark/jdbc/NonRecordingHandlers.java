@@ -0,0 +1,73 @@
+package com.mockrunner.benchmark.jdbc;
+
+import com.mockrunner.jdbc.CallableStatementResultSetHandler;
+import com.mockrunner.jdbc.PreparedStatementResultSetHandler;
+import com.mockrunner.jdbc.StatementResultSetHandler;
+import com.mockrunner.mock.jdbc.MockConnection;
+import com.mockrunner.mock.jdbc.MockParameterMap;
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Result set handlers that do not keep an execution log. The
+ * default handlers record every executed statement, its parameters
+ * and the returned result sets, so the log grows with every
+ * benchmark operation. With these handlers the prepared result
+ * sets can be registered once per trial.
+ */
+final class NonRecordingHandlers
+{
+    private NonRecordingHandlers()
+    {
+    }
+
+    /**
+     * Creates a <code>MockConnection</code> whose statement and
+     * prepared statement handlers do not record executions.
+     * @return the connection
+     */
+    static MockConnection createConnection()
+    {
+        return new MockConnection(new StatementHandler(), new PreparedStatementHandler(), new CallableStatementResultSetHandler());
+    }
+
+    static class StatementHandler extends StatementResultSetHandler
+    {
+        @Override
+        public void addExecutedStatement(String sql)
+        {
+        }
+
+        @Override
+        public void addReturnedResultSet(MockResultSet resultSet)
+        {
+        }
+
+        @Override
+        public void addReturnedResultSets(MockResultSet[] resultSets)
+        {
+        }
+    }
+
+    static class PreparedStatementHandler extends PreparedStatementResultSetHandler
+    {
+        @Override
+        public void addExecutedStatement(String sql)
+        {
+        }
+
+        @Override
+        public void addReturnedResultSet(MockResultSet resultSet)
+        {
+        }
+
+        @Override
+        public void addReturnedResultSets(MockResultSet[] resultSets)
+        {
+        }
+
+        @Override
+        public void addParameterMapForExecutedStatement(String sql, MockParameterMap parameters)
+        {
+        }
+    }
+}
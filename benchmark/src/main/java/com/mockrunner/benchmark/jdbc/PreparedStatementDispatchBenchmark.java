@@ -0,0 +1,75 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.jdbc.PreparedStatementResultSetHandler;
+import com.mockrunner.mock.jdbc.MockConnection;
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Measures <code>executeQuery</code> on a prepared statement when
+ * the result set was prepared for specific parameters, i.e. with
+ * <code>prepareResultSet(sql, resultSet, new Object[] {...})</code>.
+ * The <i>fixtures</i> parameter is the number of parameter-specific
+ * result sets registered for the same statement; the executed
+ * parameter selects the one in the middle. The prepared result sets
+ * are small, so the result is dominated by the dispatch.
+ * The statement comes from
+ * {@link NonRecordingHandlers#createConnection()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PreparedStatementDispatchBenchmark
+{
+    private static final String SQL = "select id, name, amount from customer where id = ?";
+
+    @Param({"10", "1000", "10000"})
+    private int fixtures;
+
+    private PreparedStatement statement;
+    private String expectedId;
+
+    @Setup
+    public void setUp() throws SQLException
+    {
+        MockConnection connection = NonRecordingHandlers.createConnection();
+        PreparedStatementResultSetHandler handler = connection.getPreparedStatementResultSetHandler();
+        for(int ii = 0; ii < fixtures; ii++)
+        {
+            handler.prepareResultSet(SQL, Fixtures.createResultSet("customer" + ii, 1), new Object[] {ii});
+        }
+        statement = connection.prepareStatement(SQL);
+        statement.setInt(1, fixtures / 2);
+        expectedId = "customer" + (fixtures / 2);
+    }
+
+    @Benchmark
+    public ResultSet executeQuery() throws SQLException
+    {
+        MockResultSet resultSet = (MockResultSet)statement.executeQuery();
+        if(!expectedId.equals(resultSet.getId()))
+        {
+            throw new IllegalStateException("Expected result set " + expectedId + ", got " + resultSet.getId());
+        }
+        return resultSet;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.jdbc.SQLStatementMatcher;
+
+/**
+ * Measures {@link SQLStatementMatcher#getMatchingObjects} depending
+ * on the number of keys in the map. The <i>mode</i> parameter selects
+ * exact matching, substring matching (the default of the result set
+ * handlers) or regular expressions. The query is matched against every
+ * key; in each mode it matches exactly one of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SQLStatementMatcherBenchmark
+{
+    @Param({"exact", "substring", "regex"})
+    private String mode;
+
+    @Param({"10", "1000", "10000"})
+    private int statements;
+
+    private SQLStatementMatcher matcher;
+    private Map<String, Object> preparedObjects;
+    private String query;
+
+    @Setup
+    public void setUp()
+    {
+        boolean exactMatch = "exact".equals(mode);
+        boolean regex = "regex".equals(mode);
+        matcher = new SQLStatementMatcher(false, exactMatch, regex);
+        preparedObjects = new HashMap<String, Object>();
+        for(int ii = 0; ii < statements; ii++)
+        {
+            preparedObjects.put("select * from table" + ii + " where id = ?", new Object());
+        }
+        int match = statements / 2;
+        if(exactMatch)
+        {
+            query = "select * from table" + match + " where id = ?";
+        }
+        else if(regex)
+        {
+            query = "select .* from table" + match + " where .*";
+        }
+        else
+        {
+            query = "from table" + match + " where";
+        }
+    }
+
+    @Benchmark
+    public List<Object> getMatchingObjects()
+    {
+        List<Object> result = matcher.getMatchingObjects(preparedObjects, query, false);
+        if(result.size() != 1)
+        {
+            throw new IllegalStateException("Expected exactly one match, got " + result.size());
+        }
+        return result;
+    }
+}
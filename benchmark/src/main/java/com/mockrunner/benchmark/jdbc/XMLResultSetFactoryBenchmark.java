@@ -0,0 +1,73 @@
+package com.mockrunner.benchmark.jdbc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mockrunner.jdbc.XMLResultSetFactory;
+import com.mockrunner.mock.jdbc.MockResultSet;
+
+/**
+ * Measures {@link XMLResultSetFactory#create} for both supported
+ * dialects. The factory builds a DOM of the whole document on
+ * every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 3, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class XMLResultSetFactoryBenchmark
+{
+    @Param({"sybase", "squirrel"})
+    private String dialect;
+
+    @Param({"10", "1000", "10000"})
+    private int rows;
+
+    private File file;
+    private XMLResultSetFactory factory;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        if("squirrel".equals(dialect))
+        {
+            file = Fixtures.createSquirrelXMLFile(rows);
+            factory = new XMLResultSetFactory(file);
+            factory.setDialect(XMLResultSetFactory.SQUIRREL_DIALECT);
+        }
+        else
+        {
+            file = Fixtures.createSybaseXMLFile(rows);
+            factory = new XMLResultSetFactory(file);
+            factory.setDialect(XMLResultSetFactory.SYBASE_DIALECT);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        file.delete();
+    }
+
+    @Benchmark
+    public MockResultSet create()
+    {
+        return factory.create("customer");
+    }
+}